@@ -0,0 +1,290 @@
+package com.example.bowlingapp.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+/**
+ * プラットフォームスレッドモードと仮想スレッドモードのスループットとレイテンシを比較するベンチマーク。
+ * モードごとにアプリケーションを別プロセスで起動し、ゲームを事前に作成したうえで
+ * 多数のクライアントから同時に負荷をかけ、スループットとp50/p99レイテンシを出力する。
+ *
+ * <p>負荷の内訳は観戦者を想定したフレーム取得（GET）が9割、
+ * 新規ゲーム作成（POST）が1割である。
+ *
+ * <p>設定はシステムプロパティで変更できる:
+ * <ul>
+ *   <li>{@code benchmark.clients} 同時クライアント数（既定10000）</li>
+ *   <li>{@code benchmark.duration} 計測時間の秒数（既定60）</li>
+ *   <li>{@code benchmark.warmup} 計測前のウォームアップの秒数（既定15）</li>
+ *   <li>{@code benchmark.games} 事前に作成するゲーム数（既定100）</li>
+ *   <li>{@code benchmark.port} アプリケーションのポート（既定18081）</li>
+ *   <li>{@code benchmark.httpClients} クライアントを分散させる {@link HttpClient} の数（既定4）</li>
+ * </ul>
+ *
+ * <p>各 {@link HttpClient} は1つのセレクタスレッドで全接続を処理するため、
+ * クライアントを複数のインスタンスに分散させている。負荷をかける側のCPUが飽和していると
+ * クライアント側の待ち時間が結果に混ざるため、計測中はベンチマークのプロセスが
+ * ボトルネックになっていないことを確認すること。
+ */
+public class BowlingBenchmark {
+    private static final Pattern GAME_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final File jar;
+    private final int clients;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int games;
+    private final int port;
+    private final List<HttpClient> httpClients;
+
+    private BowlingBenchmark(File jar) {
+        this.jar = jar;
+        this.clients = Integer.getInteger("benchmark.clients", 10_000);
+        this.duration = Duration.ofSeconds(Long.getLong("benchmark.duration", 60));
+        this.warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup", 15));
+        this.games = Integer.getInteger("benchmark.games", 100);
+        this.port = Integer.getInteger("benchmark.port", 18081);
+        this.httpClients = new ArrayList<>();
+        int httpClientCount = Integer.getInteger("benchmark.httpClients", 4);
+        for (int i = 0; i < httpClientCount; i++) {
+            httpClients.add(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build());
+        }
+    }
+
+    /**
+     * ベンチマークのエントリーポイント。
+     *
+     * @param args 1番目の引数にアプリケーションの実行可能JARのパスを指定する
+     * @throws Exception アプリケーションの起動や計測に失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: BowlingBenchmark <path to application jar>");
+        }
+        new BowlingBenchmark(new File(args[0])).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("clients=%d httpClients=%d warmup=%ds duration=%ds games=%d%n",
+                clients, httpClients.size(), warmup.toSeconds(), duration.toSeconds(), games);
+
+        List<Result> results = new ArrayList<>();
+        results.add(runMode("platform", null));
+        results.add(runMode("virtual", "virtual-threads"));
+
+        System.out.println();
+        System.out.printf("%-10s %12s %10s %10s %10s %10s %10s%n",
+                "mode", "req/s", "p50 (ms)", "p99 (ms)", "max (ms)", "errors", "in-flight");
+        for (Result result : results) {
+            System.out.println(result.format());
+        }
+    }
+
+    /**
+     * 指定したプロファイルでアプリケーションを起動し、データの投入と負荷の計測を行う。
+     *
+     * @param mode 結果に表示するモード名
+     * @param profile 有効にするSpringプロファイル。不要な場合はnull
+     * @return 計測結果
+     */
+    private Result runMode(String mode, String profile) throws Exception {
+        System.out.printf("%n[%s] starting application%n", mode);
+        Process application = startApplication(mode, profile);
+        try {
+            awaitReady(application);
+            List<Long> gameIds = seedGames();
+            System.out.printf("[%s] seeded %d games, running load%n", mode, gameIds.size());
+            return runLoad(mode, gameIds);
+        } finally {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    private Process startApplication(String mode, String profile) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>(List.of(java, "-jar", jar.getAbsolutePath(),
+                "--server.port=" + port,
+                "--logging.level.com.example.bowlingapp=INFO"));
+        if (profile != null) {
+            command.add("--spring.profiles.active=" + profile);
+        }
+        File log = new File(jar.getParentFile(), "benchmark-" + mode + ".log");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+    }
+
+    private void awaitReady(Process application) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(120).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + application.exitValue());
+            }
+            try {
+                HttpResponse<String> response = send(httpClients.get(0), get("/api/games/0/frames"));
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 起動待ち
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application did not become ready in time");
+    }
+
+    /**
+     * 計測対象のゲームを作成し、1フレーム目の投球を記録する。
+     *
+     * @return 作成したゲームのIDのリスト
+     */
+    private List<Long> seedGames() throws IOException, InterruptedException {
+        List<Long> gameIds = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            HttpClient client = httpClients.get(0);
+            HttpResponse<String> created = expectOk(send(client, post("/api/games", "")));
+            Matcher matcher = GAME_ID.matcher(created.body());
+            if (!matcher.find()) {
+                throw new IllegalStateException("Game id not found in response: " + created.body());
+            }
+            long gameId = Long.parseLong(matcher.group(1));
+            expectOk(send(client, post("/api/games/" + gameId + "/rolls", "{\"frameNumber\":1,\"pins\":7}")));
+            expectOk(send(client, post("/api/games/" + gameId + "/rolls", "{\"frameNumber\":1,\"pins\":2}")));
+            gameIds.add(gameId);
+        }
+        return gameIds;
+    }
+
+    /**
+     * 全クライアントから同時に負荷をかけ、計測時間内に完了した応答を集計する。
+     * 計測終了時点で応答を待っていたリクエストは遅延として別に数える。
+     *
+     * @param mode 結果に表示するモード名
+     * @param gameIds 参照対象のゲームIDのリスト
+     * @return 計測結果
+     */
+    private Result runLoad(String mode, List<Long> gameIds) throws InterruptedException {
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + duration.toNanos();
+        LongStream.Builder[] latencies = new LongStream.Builder[clients];
+        AtomicLong errors = new AtomicLong();
+        AtomicLong inFlight = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                LongStream.Builder clientLatencies = LongStream.builder();
+                latencies[i] = clientLatencies;
+                HttpClient client = httpClients.get(i % httpClients.size());
+                executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < measureEnd) {
+                        HttpRequest request = random.nextInt(10) == 0
+                                ? post("/api/games", "")
+                                : get("/api/games/" + gameIds.get(random.nextInt(gameIds.size())) + "/frames");
+                        long begin = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = send(client, request).statusCode() == 200;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        long end = System.nanoTime();
+                        if (end > measureEnd) {
+                            inFlight.incrementAndGet();
+                        } else if (end < measureStart) {
+                            continue;
+                        } else if (ok) {
+                            clientLatencies.add(end - begin);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        long[] sorted = Arrays.stream(latencies).flatMapToLong(LongStream.Builder::build).sorted().toArray();
+        return new Result(mode, sorted, errors.get(), inFlight.get(), duration);
+    }
+
+    private HttpResponse<String> send(HttpClient client, HttpRequest request)
+            throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> expectOk(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * 1モード分の計測結果。
+     *
+     * @param mode モード名
+     * @param latencies 成功した応答のレイテンシ（ナノ秒、昇順）
+     * @param errors 失敗した応答の数
+     * @param inFlight 計測終了時点で完了していなかったリクエストの数
+     * @param duration 計測時間
+     */
+    private record Result(String mode, long[] latencies, long errors, long inFlight, Duration duration) {
+
+        private String format() {
+            double throughput = latencies.length / (duration.toMillis() / 1000.0);
+            return String.format(Locale.ROOT, "%-10s %12.1f %10.1f %10.1f %10.1f %10d %10d",
+                    mode, throughput, percentile(0.50), percentile(0.99), percentile(1.0), errors, inFlight);
+        }
+
+        private double percentile(double p) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.bowlingapp.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * APIリクエストの同時実行数をJDBCコネクションプールのサイズに制限するインターセプタ。
+ * 仮想スレッドではリクエストごとにスレッドが生成されるため、
+ * 制限がないとコネクション取得待ちがH2へ殺到する。
+ * 許可を得られないリクエストはセマフォ上で待機させ、
+ * タイムアウトした場合は503を返す。
+ * Spring MVCのCORS処理の後に実行されるため、503の応答にもCORSヘッダが付与される。
+ * CORSのプリフライトリクエストはデータベースを使用しないため制限の対象外とする。
+ */
+public class ConnectionLimitInterceptor implements HandlerInterceptor {
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    /**
+     * コンストラクタ
+     * @param maxConcurrentRequests 同時に処理するリクエストの上限（コネクションプールのサイズ）
+     * @param acquireTimeout 許可を待機する最大時間
+     */
+    public ConnectionLimitInterceptor(int maxConcurrentRequests, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * ハンドラの実行前に許可を取得する。
+     * 待機時間内に許可を取得できない場合は503を返し、ハンドラを実行しない。
+     * プリフライトリクエストは許可を取得せずに通過させる。
+     *
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @param handler 実行対象のハンドラ
+     * @return 許可を取得できた場合true
+     * @throws IOException エラー応答の送信に失敗した場合
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Request interrupted while waiting");
+            return false;
+        }
+        if (!acquired) {
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * ハンドラの完了後に許可を返却する。
+     * {@link #preHandle} が処理を続行した場合のみ、例外の有無に関わらず呼び出される。
+     * 許可を取得していないプリフライトリクエストでは何もしない。
+     *
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @param handler 実行したハンドラ
+     * @param ex ハンドラで発生した例外。発生しなかった場合はnull
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return;
+        }
+        permits.release();
+    }
+}
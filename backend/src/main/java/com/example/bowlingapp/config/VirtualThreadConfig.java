@@ -0,0 +1,46 @@
+package com.example.bowlingapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 仮想スレッド実行モードの設定クラス。
+ * {@code spring.threads.virtual.enabled} が有効かつJava 21以上で実行されている場合のみ読み込まれ、
+ * APIリクエストに対して {@link ConnectionLimitInterceptor} を登録する。
+ * 仮想スレッドモードは {@code virtual-threads} プロファイルで有効化できる。
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements WebMvcConfigurer {
+    private final int maximumPoolSize;
+    private final Duration acquireTimeout;
+
+    /**
+     * コンストラクタ
+     * @param maximumPoolSize JDBCコネクションプールの最大サイズ
+     * @param acquireTimeout 許可を待機する最大時間
+     */
+    public VirtualThreadConfig(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${bowling.concurrency.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.maximumPoolSize = maximumPoolSize;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 同時実行数をJDBCコネクションプールのサイズに合わせたインターセプタを /api/** に登録する。
+     *
+     * @param registry インターセプタの登録先
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConnectionLimitInterceptor(maximumPoolSize, acquireTimeout))
+                .addPathPatterns("/api/**");
+    }
+}
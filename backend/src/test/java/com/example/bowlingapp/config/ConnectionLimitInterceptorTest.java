@@ -0,0 +1,113 @@
+package com.example.bowlingapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConnectionLimitInterceptor} の許可の取得・返却と同時実行数の制限を検証するテスト。
+ */
+class ConnectionLimitInterceptorTest {
+    private static final Object HANDLER = new Object();
+
+    @Test
+    void respondsServiceUnavailableWhenPermitIsNotAcquiredInTime() throws Exception {
+        ConnectionLimitInterceptor interceptor = new ConnectionLimitInterceptor(1, Duration.ofMillis(50));
+        assertTrue(interceptor.preHandle(apiRequest(), new MockHttpServletResponse(), HANDLER));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceeded = interceptor.preHandle(apiRequest(), response, HANDLER);
+
+        assertFalse(proceeded);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+    }
+
+    @Test
+    void releasesPermitWhenHandlerThrows() throws Exception {
+        ConnectionLimitInterceptor interceptor = new ConnectionLimitInterceptor(1, Duration.ofMillis(50));
+        MockHttpServletRequest request = apiRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, HANDLER));
+        interceptor.afterCompletion(request, response, HANDLER, new IllegalStateException("boom"));
+
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(apiRequest(), next, HANDLER));
+        assertEquals(HttpStatus.OK.value(), next.getStatus());
+    }
+
+    @Test
+    void neverRunsMoreRequestsThanPermitsConcurrently() throws Exception {
+        int permits = 3;
+        int requests = 30;
+        ConnectionLimitInterceptor interceptor = new ConnectionLimitInterceptor(permits, Duration.ofSeconds(10));
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    MockHttpServletRequest request = apiRequest();
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    if (!interceptor.preHandle(request, response, HANDLER)) {
+                        return false;
+                    }
+                    try {
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        Thread.sleep(20);
+                    } finally {
+                        active.decrementAndGet();
+                        interceptor.afterCompletion(request, response, HANDLER, null);
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(permits, maxActive.get());
+    }
+
+    @Test
+    void letsPreflightRequestsThroughWithoutTakingPermit() throws Exception {
+        ConnectionLimitInterceptor interceptor = new ConnectionLimitInterceptor(1, Duration.ofMillis(50));
+        assertTrue(interceptor.preHandle(apiRequest(), new MockHttpServletResponse(), HANDLER));
+
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/games");
+        preflight.addHeader("Origin", "http://localhost:8080");
+        preflight.addHeader("Access-Control-Request-Method", "POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(preflight, response, HANDLER));
+        interceptor.afterCompletion(preflight, response, HANDLER, null);
+
+        assertFalse(interceptor.preHandle(apiRequest(), new MockHttpServletResponse(), HANDLER));
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/games/1");
+    }
+}
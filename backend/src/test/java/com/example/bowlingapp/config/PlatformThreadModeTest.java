@@ -0,0 +1,36 @@
+package com.example.bowlingapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 既定のプロファイルではプラットフォームスレッドで処理され、
+ * 同時実行数の制限が登録されないことを検証するテスト。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(ThreadProbeController.class)
+class PlatformThreadModeTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void handlesApiRequestsOnPlatformThreads() {
+        assertEquals(Boolean.FALSE, restTemplate.getForObject("/api/test/thread", Boolean.class));
+    }
+
+    @Test
+    void doesNotRegisterLimiterByDefault() {
+        assertTrue(context.getBeansOfType(VirtualThreadConfig.class).isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.bowlingapp.config;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 実行モードのテスト用コントローラ。
+ * リクエストを処理したスレッドの種類を返し、許可を占有し続けるリクエストを提供する。
+ */
+@RestController
+@RequestMapping("/api/test")
+class ThreadProbeController {
+    private volatile CountDownLatch entered = new CountDownLatch(1);
+    private volatile CountDownLatch release = new CountDownLatch(1);
+
+    @GetMapping("/thread")
+    boolean isVirtualThread() {
+        return Thread.currentThread().isVirtual();
+    }
+
+    @GetMapping("/hold")
+    void hold() throws InterruptedException {
+        entered.countDown();
+        release.await(10, TimeUnit.SECONDS);
+    }
+
+    void reset() {
+        entered = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    boolean awaitEntered() throws InterruptedException {
+        return entered.await(10, TimeUnit.SECONDS);
+    }
+
+    void release() {
+        release.countDown();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.bowlingapp.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code virtual-threads} プロファイルで、組み込みTomcat経由のAPIリクエストが
+ * 仮想スレッドで処理され、同時実行数の制限が適用されることを検証するテスト。
+ * 許可を使い切りやすいよう、コネクションプールのサイズを1にしている。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "bowling.concurrency.acquire-timeout=100ms"
+})
+@ActiveProfiles("virtual-threads")
+@Import(ThreadProbeController.class)
+class VirtualThreadConfigTest {
+    private static final String ORIGIN = "http://localhost:8080";
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ThreadProbeController probe;
+
+    @BeforeEach
+    void resetProbe() {
+        probe.reset();
+    }
+
+    @Test
+    void handlesApiRequestsOnVirtualThreads() throws Exception {
+        HttpResponse<String> response = send(get("/api/test/thread").build());
+
+        assertEquals(HttpStatus.OK.value(), response.statusCode());
+        assertEquals("true", response.body());
+    }
+
+    @Test
+    void respondsServiceUnavailableWithCorsHeadersWhenPermitsAreExhausted() throws Exception {
+        CompletableFuture<HttpResponse<String>> holder =
+                client.sendAsync(get("/api/test/hold").build(), HttpResponse.BodyHandlers.ofString());
+        try {
+            assertTrue(probe.awaitEntered());
+
+            HttpResponse<String> response = send(get("/api/games/0/frames").header("Origin", ORIGIN).build());
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.statusCode());
+            assertEquals(ORIGIN, response.headers().firstValue("Access-Control-Allow-Origin").orElse(null));
+        } finally {
+            probe.release();
+        }
+        assertEquals(HttpStatus.OK.value(), holder.get(10, TimeUnit.SECONDS).statusCode());
+    }
+
+    @Test
+    void letsPreflightRequestsThroughWhenPermitsAreExhausted() throws Exception {
+        CompletableFuture<HttpResponse<String>> holder =
+                client.sendAsync(get("/api/test/hold").build(), HttpResponse.BodyHandlers.ofString());
+        try {
+            assertTrue(probe.awaitEntered());
+
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/games"))
+                    .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+                    .header("Origin", ORIGIN)
+                    .header("Access-Control-Request-Method", "POST")
+                    .build());
+
+            assertEquals(HttpStatus.OK.value(), response.statusCode());
+            assertEquals(ORIGIN, response.headers().firstValue("Access-Control-Allow-Origin").orElse(null));
+        } finally {
+            probe.release();
+        }
+        assertEquals(HttpStatus.OK.value(), holder.get(10, TimeUnit.SECONDS).statusCode());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}